@@ -0,0 +1,385 @@
+package com.easy.query.test;
+
+import com.easy.query.api.proxy.client.DefaultEasyEntityQuery;
+import com.easy.query.core.api.EasyEntityQuery;
+import com.easy.query.core.api.client.EasyQueryClient;
+import com.easy.query.core.basic.jdbc.types.JdbcTypeHandlerManager;
+import com.easy.query.core.bootstrapper.EasyQueryBootstrapper;
+import com.easy.query.core.proxy.core.track.TrackManager;
+import com.easy.query.core.util.EasyJdbcExecutorUtil;
+import com.easy.query.h2.config.H2DatabaseConfiguration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Easy-Query JMH 基准测试示例
+ * 基于 examples 中的实体和查询，在内嵌 H2 数据库上分别测量表达式构建、SQL 渲染、参数绑定、
+ * 行映射、差异化更新和批量写入的开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogBenchmark {
+
+    /**
+     * 预置数据行数，可通过 -p rowCount=... 覆盖
+     */
+    @Param({"1000", "100000"})
+    private int rowCount;
+
+    /**
+     * 批量写入的每批行数
+     */
+    @Param({"100"})
+    private int batchSize;
+
+    private JdbcDataSource dataSource;
+    private EasyEntityQuery easyEntityQuery;
+    private QueryExamples queryExamples;
+    private JoinExamples joinExamples;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+
+        EasyQueryClient client = EasyQueryBootstrapper.defaultBuilderConfiguration()
+                .setDefaultDataSource(dataSource)
+                .optionConfigure(op -> op.setPrintSql(false))
+                .useDatabaseConfigure(new H2DatabaseConfiguration())
+                .build();
+        easyEntityQuery = new DefaultEasyEntityQuery(client);
+        queryExamples = new QueryExamples(easyEntityQuery);
+        joinExamples = new JoinExamples(easyEntityQuery);
+
+        createTable();
+        seed(rowCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        execute("DROP TABLE \"t_blog\"");
+    }
+
+    /**
+     * 1. 表达式构建：只构建查询对象，不渲染 SQL、不访问数据库
+     */
+    @Benchmark
+    public Object expressionBuilding() {
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> {
+                    b.title().like("Spring%");
+                    b.score().gt(new BigDecimal("3.0"));
+                    b.status().eq(1);
+                })
+                .orderBy(b -> b.publishTime().desc());
+    }
+
+    /**
+     * 2. SQL 渲染：构建并生成 SQL 字符串
+     */
+    @Benchmark
+    public String sqlRendering() {
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> {
+                    b.title().like("Spring%");
+                    b.score().gt(new BigDecimal("3.0"));
+                    b.status().eq(1);
+                })
+                .orderBy(b -> b.publishTime().desc())
+                .toSQL();
+    }
+
+    /**
+     * 3. SQL 渲染 + 参数收集：生成 SQL 及其参数列表，不涉及 PreparedStatement
+     */
+    @Benchmark
+    public void sqlRenderingWithParameters(Blackhole blackhole) {
+        ToSQLResult sqlResult = bindingQuery(easyEntityQuery).toSQLResult();
+        blackhole.consume(sqlResult.getSQL());
+        blackhole.consume(sqlResult.getSqlContext().getParameters());
+    }
+
+    /**
+     * 4. 参数绑定：SQL 和 SQLParameter 在 {@link BindingState} 中预先生成并 prepare，
+     * 只测量 Easy-Query 执行器通过 JdbcTypeHandler 向 PreparedStatement 绑定参数的开销，不执行
+     */
+    @Benchmark
+    public void parameterBinding(BindingState state) throws SQLException {
+        PreparedStatement ps = state.preparedStatement;
+        ps.clearParameters();
+        EasyJdbcExecutorUtil.setPreparedStatement(ps, state.parameters, state.jdbcTypeHandlerManager);
+    }
+
+    /**
+     * 5. 行映射：整实体物化，条件与 {@link #rowMappingColumnBatches(Blackhole)} 相同（status = 1）
+     */
+    @Benchmark
+    public List<BlogEntity> rowMappingEntity() {
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> b.status().eq(1))
+                .toList();
+    }
+
+    /**
+     * 6. 行映射：窄投影流式读取到列式缓冲
+     */
+    @Benchmark
+    public void rowMappingColumnBatches(Blackhole blackhole) {
+        queryExamples.queryColumnBatches(1000, 1000, blackhole::consume);
+    }
+
+    /**
+     * 7. UNION 三种写法对比
+     */
+    @Benchmark
+    public List<BlogEntity> unionDistinct() {
+        return queryExamples.queryUnion();
+    }
+
+    @Benchmark
+    public List<BlogEntity> unionCollapsed() {
+        return queryExamples.queryUnionCollapsed();
+    }
+
+    @Benchmark
+    public List<BlogEntity> unionAllDistinctById() {
+        return queryExamples.queryUnionAllDistinctById();
+    }
+
+    @Benchmark
+    public void unionMergeOrdered(Blackhole blackhole) {
+        queryExamples.queryUnionMergeOrdered(blackhole::consume);
+    }
+
+    /**
+     * 8. 无窗口函数时的分组取首条 / 第 N 条
+     */
+    @Benchmark
+    public List<BlogEntity> partitionMaxKeyJoin() {
+        return joinExamples.latestBlogPerTopicByMaxKeyJoin();
+    }
+
+    @Benchmark
+    public List<BlogEntity> partitionStreaming() {
+        return joinExamples.nthBlogPerTopicByStreaming(1);
+    }
+
+    /**
+     * 9. 差异化更新：跟踪实体的查询在 {@link TrackingState} 的 setup 中完成
+     * trackingDiff 只做修改检测并生成 UPDATE SQL，不执行；trackingDiffUpdateWithWrite 额外包含一次 JDBC UPDATE
+     */
+    @Benchmark
+    public String trackingDiff(TrackingState state) {
+        // 每次写入不同的值，保证始终存在差异
+        state.trackedBlog.setTitle("bench-" + (sequence++));
+        return easyEntityQuery.updatable(state.trackedBlog).toSQL(state.trackedBlog);
+    }
+
+    @Benchmark
+    public long trackingDiffUpdateWithWrite(TrackingState state) {
+        // 每次写入不同的值，保证始终存在差异
+        state.trackedBlog.setTitle("bench-" + (sequence++));
+        return easyEntityQuery.updatable(state.trackedBlog).executeRows();
+    }
+
+    /**
+     * 10. 批量写入
+     */
+    @Benchmark
+    public long batchInsert() {
+        List<BlogEntity> blogs = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            blogs.add(newBlog("bench-" + (sequence++)));
+        }
+        return easyEntityQuery.insertable(blogs).batch().executeRows();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() throws SQLException {
+        execute("DELETE FROM \"t_blog\" WHERE \"id\" LIKE 'bench-%'");
+    }
+
+    private void createTable() throws SQLException {
+        execute("CREATE TABLE \"t_blog\" ("
+                + "\"id\" VARCHAR(64) PRIMARY KEY, \"topic_id\" VARCHAR(64), \"title\" VARCHAR(255), "
+                + "\"content\" CLOB, \"url\" VARCHAR(255), \"star\" INT, \"publish_time\" TIMESTAMP, "
+                + "\"score\" DECIMAL(18, 2), \"status\" INT, \"order\" DECIMAL(18, 2), \"is_top\" BOOLEAN, "
+                + "\"view_count\" INT, \"create_time\" TIMESTAMP, \"update_time\" TIMESTAMP, "
+                + "\"create_by\" VARCHAR(64), \"update_by\" VARCHAR(64), \"deleted\" BOOLEAN)");
+        execute("CREATE INDEX \"idx_topic_publish_id\" ON \"t_blog\" (\"topic_id\", \"publish_time\", \"id\")");
+        execute("CREATE INDEX \"idx_status\" ON \"t_blog\" (\"status\")");
+    }
+
+    /**
+     * 用 JDBC 批量预置数据，避免预置过程受被测代码影响
+     */
+    private void seed(int rows) throws SQLException {
+        String sql = "INSERT INTO \"t_blog\" (\"id\", \"topic_id\", \"title\", \"content\", \"url\", \"star\", "
+                + "\"publish_time\", \"score\", \"status\", \"order\", \"is_top\", \"view_count\", "
+                + "\"create_time\", \"update_time\", \"create_by\", \"update_by\", \"deleted\") "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                // 每 10 行共用一个发布时间且属于同一主题，覆盖分组取首条时的平局场景
+                Timestamp publishTime = Timestamp.valueOf(base.plusMinutes(i / 10));
+                ps.setString(1, String.valueOf(i));
+                ps.setString(2, String.valueOf((i / 10) % 100));
+                ps.setString(3, (i % 3 == 0 ? "Spring " : "Java ") + i);
+                ps.setString(4, "content " + i);
+                ps.setString(5, "https://example.com/blog/" + i);
+                ps.setInt(6, i % 500);
+                ps.setTimestamp(7, publishTime);
+                ps.setBigDecimal(8, BigDecimal.valueOf(i % 50, 1));
+                ps.setInt(9, i % 3);
+                ps.setBigDecimal(10, BigDecimal.valueOf(i));
+                ps.setBoolean(11, i % 20 == 0);
+                ps.setInt(12, i % 1000);
+                ps.setTimestamp(13, publishTime);
+                ps.setTimestamp(14, publishTime);
+                ps.setString(15, "admin");
+                ps.setString(16, "admin");
+                ps.setBoolean(17, false);
+                ps.addBatch();
+                if (i % 1000 == 999) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private BlogEntity newBlog(String id) {
+        BlogEntity blog = new BlogEntity();
+        blog.setId(id);
+        blog.setTopicId("0");
+        blog.setTitle("Spring " + id);
+        blog.setStar(0);
+        blog.setPublishTime(LocalDateTime.now());
+        blog.setScore(new BigDecimal("3.0"));
+        blog.setStatus(1);
+        blog.setIsTop(false);
+        blog.setViewCount(0);
+        blog.setDeleted(false);
+        return blog;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static EntityQueryable<BlogEntityProxy, BlogEntity> bindingQuery(EasyEntityQuery easyEntityQuery) {
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> {
+                    b.id().in(Arrays.asList("1", "2", "3"));
+                    b.publishTime().rangeClosed(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59));
+                });
+    }
+
+    /**
+     * 参数绑定专用状态：连接和 PreparedStatement 在整个测试期间保持打开
+     */
+    @State(Scope.Thread)
+    public static class BindingState {
+        private Connection connection;
+        private PreparedStatement preparedStatement;
+        private List<SQLParameter> parameters;
+        private JdbcTypeHandlerManager jdbcTypeHandlerManager;
+
+        @Setup(Level.Trial)
+        public void prepare(BlogBenchmark benchmark) throws SQLException {
+            ToSQLResult sqlResult = bindingQuery(benchmark.easyEntityQuery).toSQLResult();
+            parameters = sqlResult.getSqlContext().getParameters();
+            jdbcTypeHandlerManager = benchmark.easyEntityQuery.getRuntimeContext().getJdbcTypeHandlerManager();
+            connection = benchmark.dataSource.getConnection();
+            preparedStatement = connection.prepareStatement(sqlResult.getSQL());
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            preparedStatement.close();
+            connection.close();
+        }
+    }
+
+    /**
+     * 差异化更新专用状态：每轮迭代开启跟踪并重新查询一个跟踪实体，迭代结束时释放，不影响其他基准方法
+     * 不使用 Level.Invocation，避免逐次调用的 setup 开销扭曲微秒级结果
+     */
+    @State(Scope.Thread)
+    public static class TrackingState {
+        private TrackManager trackManager;
+        private BlogEntity trackedBlog;
+
+        @Setup(Level.Iteration)
+        public void beginTracking(BlogBenchmark benchmark) {
+            EasyEntityQuery easyEntityQuery = benchmark.easyEntityQuery;
+            trackManager = easyEntityQuery.getRuntimeContext().getTrackManager();
+            trackManager.begin();
+            trackedBlog = easyEntityQuery.queryable(BlogEntity.class)
+                    .asTracking()
+                    .whereById("123")
+                    .firstNotNull();
+            easyEntityQuery.addTracking(trackedBlog);
+        }
+
+        @TearDown(Level.Iteration)
+        public void releaseTracking() {
+            trackManager.release();
+        }
+    }
+
+    /**
+     * 启用 GC/分配分析，结果以 JSON 输出，便于不同版本之间对比
+     * 结果文件可通过 -Dbench.result=... 指定
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BlogBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("bench.result", "jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
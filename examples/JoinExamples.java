@@ -1,9 +1,14 @@
 package com.easy.query.test;
 
 import com.easy.query.core.api.EasyEntityQuery;
+import com.easy.query.core.basic.jdbc.executor.internal.enumerable.JdbcStreamResult;
+import com.easy.query.core.exception.EasyQuerySQLException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Easy-Query 多表 Join 查询示例
@@ -152,4 +157,85 @@ public class JoinExamples {
                 )
                 .toList();
     }
+
+    /**
+     * 11. 每个主题最新的一篇博客（分组最大键 Join，适用于不支持窗口函数的数据库，如 MySQL 5.7）
+     * 先按 topicId 求 MAX(publishTime)，再对同一时间的多篇博客取 MAX(id) 作为平局裁决，保证每组只返回一条
+     * Join 条件中 NULL 永不相等，topicId 为 NULL 的博客和 publishTime 全为 NULL 的主题不会返回
+     */
+    public List<BlogEntity> latestBlogPerTopicByMaxKeyJoin() {
+        EntityQueryable<BlogEntityProxy, BlogEntity> latestTime = easyEntityQuery
+                .queryable(BlogEntity.class)
+                .groupBy(b -> GroupKeys.of(b.topicId()))
+                .select(g -> new BlogEntityProxy()
+                        .topicId().set(g.key1())
+                        .publishTime().set(g.groupTable().publishTime().max())
+                );
+
+        // 平局裁决：同一主题同一最大发布时间下取最大 id
+        EntityQueryable<BlogEntityProxy, BlogEntity> latestId = easyEntityQuery
+                .queryable(BlogEntity.class)
+                .innerJoin(latestTime, (b, m) -> {
+                    b.topicId().eq(m.topicId());
+                    b.publishTime().eq(m.publishTime());
+                })
+                .groupBy((b, m) -> GroupKeys.TABLE2.of(b.topicId()))
+                .select((b, m, g) -> new BlogEntityProxy()
+                        .id().set(g.group().t1().id().max())
+                );
+
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .innerJoin(latestId, (b, l) -> b.id().eq(l.id()))
+                .select((b, l) -> b)
+                .toList();
+    }
+
+    /**
+     * 12. 每个主题第 index 篇博客（按键有序的流式读取，客户端分组取第 N 条）
+     * 适用于不支持窗口函数且需要 element(index) 的场景，单次扫描，不产生相关子查询
+     * 排序键必须包含 id 作为平局裁决，否则同一发布时间的博客顺序不确定
+     * 过滤掉 topicId、publishTime 为 NULL 的行，与 {@link #latestBlogPerTopicByMaxKeyJoin()} 的结果保持一致
+     * 只查询需要的列，不读取 content 等大字段
+     */
+    public List<BlogEntity> nthBlogPerTopicByStreaming(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must be >= 0: " + index);
+        }
+        List<BlogEntity> result = new ArrayList<>();
+        try (JdbcStreamResult<BlogEntity> streamResult = easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> {
+                    b.topicId().isNotNull();
+                    b.publishTime().isNotNull();
+                })
+                .orderBy(b -> {
+                    // 全部降序，MySQL 5.7 无降序索引时可反向扫描 (topic_id, publish_time, id) 索引，避免 filesort
+                    b.topicId().desc();
+                    b.publishTime().desc();
+                    b.id().desc();
+                })
+                .select(b -> new BlogEntityProxy()
+                        .id().set(b.id())
+                        .topicId().set(b.topicId())
+                        .title().set(b.title())
+                        .publishTime().set(b.publishTime())
+                )
+                .toStreamResult(1000)) {
+
+            String currentTopicId = null;
+            int position = 0;
+            for (BlogEntity blog : streamResult.getStreamIterable()) {
+                if (!Objects.equals(currentTopicId, blog.getTopicId())) {
+                    currentTopicId = blog.getTopicId();
+                    position = 0;
+                }
+                if (position == index) {
+                    result.add(blog);
+                }
+                position++;
+            }
+        } catch (SQLException e) {
+            throw new EasyQuerySQLException(e);
+        }
+        return result;
+    }
 }
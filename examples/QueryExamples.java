@@ -1,12 +1,25 @@
 package com.easy.query.test;
 
 import com.easy.query.core.api.EasyEntityQuery;
+import com.easy.query.core.basic.jdbc.executor.internal.enumerable.JdbcStreamResult;
+import com.easy.query.core.enums.OrderByModeEnum;
 import com.easy.query.core.enums.propagation.Propagation;
+import com.easy.query.core.exception.EasyQuerySQLException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Easy-Query 查询操作示例
@@ -133,6 +146,7 @@ public class QueryExamples {
 
     /**
      * 10. UNION 查询
+     * 同表且投影相同、仅条件不同时，优先使用 {@link #queryUnionCollapsed()}
      */
     public List<BlogEntity> queryUnion() {
         EntityQueryable<BlogEntityProxy, BlogEntity> q1 = easyEntityQuery
@@ -168,4 +182,224 @@ public class QueryExamples {
                 ))
                 .toList();
     }
+
+    /**
+     * 13. 大批量分析读取 - 流式读取窄投影并填充列式缓冲
+     * 只查询需要的列，按 fetchSize 流式读取，逐行写入原生数组，避免物化实体和缓冲整个结果集
+     * fetchSize 控制每次从数据库拉取的行数，batchSize 控制每个列式批次的行数，两者相互独立
+     * 注意：每行仍会创建 Draft4 及装箱的 Integer/BigDecimal/LocalDateTime 对象
+     */
+    public void queryColumnBatches(int fetchSize, int batchSize, Consumer<BlogColumnBatch> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be > 0: " + batchSize);
+        }
+        try (JdbcStreamResult<Draft4<Integer, BigDecimal, Integer, LocalDateTime>> streamResult = easyEntityQuery
+                .queryable(BlogEntity.class)
+                .where(b -> b.status().eq(1))
+                .select(b -> Select.DRAFT.of(
+                        b.star(),
+                        b.score(),
+                        b.viewCount(),
+                        b.publishTime()
+                ))
+                .toStreamResult(fetchSize)) {
+
+            // 批次对象复用，消费方需在回调内处理完数据
+            BlogColumnBatch batch = new BlogColumnBatch(batchSize);
+            for (Draft4<Integer, BigDecimal, Integer, LocalDateTime> row : streamResult.getStreamIterable()) {
+                batch.append(row.getValue1(), row.getValue2(), row.getValue3(), row.getValue4());
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(batch);
+                    batch.clear();
+                }
+            }
+            if (batch.size() > 0) {
+                batchConsumer.accept(batch);
+            }
+        } catch (SQLException e) {
+            throw new EasyQuerySQLException(e);
+        }
+    }
+
+    /**
+     * 14. 同表 UNION 合并为单次扫描
+     * 两个分支同表、同投影、同 Join，只是 status 不同，直接改写为 IN 条件，避免两次扫描和去重排序
+     * 仅在结果行本身唯一时等价：投影包含主键（或其他唯一键）且没有会产生重复行的 Join，否则 UNION 的去重语义会丢失
+     */
+    public List<BlogEntity> queryUnionCollapsed() {
+        return easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> b.status().in(Arrays.asList(1, 2)))
+                .toList();
+    }
+
+    /**
+     * 15. UNION ALL + 按主键内存去重
+     * 分支确实不同（条件涉及不同字段）时，用 UNION ALL 省去数据库端的排序去重，再按主键保序去重
+     */
+    public List<BlogEntity> queryUnionAllDistinctById() {
+        EntityQueryable<BlogEntityProxy, BlogEntity> q1 = easyEntityQuery
+                .queryable(BlogEntity.class)
+                .where(b -> b.status().eq(1));
+
+        EntityQueryable<BlogEntityProxy, BlogEntity> q2 = easyEntityQuery
+                .queryable(BlogEntity.class)
+                .where(b -> b.score().ge(new BigDecimal("4.5")));
+
+        Map<String, BlogEntity> distinct = new LinkedHashMap<>();
+        for (BlogEntity blog : q1.unionAll(q2).toList()) {
+            distinct.putIfAbsent(blog.getId(), blog);
+        }
+        return new ArrayList<>(distinct.values());
+    }
+
+    /**
+     * 16. 有序分支流式归并
+     * 两个分支各自按 (publishTime DESC, id DESC) 有序，逐行归并并跳过相邻的重复主键
+     * 排序必须包含主键，重复行才会在归并后相邻
+     * Java Comparator 必须与数据库排序完全一致：NULL 位置在 SQL 中用 NULLS_LAST 固定，
+     * 排序键的比较规则也必须与数据库排序规则一致（如 MySQL *_ci 排序规则下字符串 id 与 String.compareTo 不同）
+     * MySQL 需设置 useCursorFetch=true，否则驱动忽略 fetchSize 并缓冲整个结果；服务端游标可在同一连接上同时打开多个，事务中也可使用
+     * 若改用 Connector/J 逐行流式（fetchSize = Integer.MIN_VALUE），同一连接只能有一个打开的流式结果，事务中两个分支会失败
+     */
+    public void queryUnionMergeOrdered(Consumer<BlogEntity> consumer) {
+        Comparator<BlogEntity> order = Comparator
+                .comparing(BlogEntity::getPublishTime, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(BlogEntity::getId, Comparator.reverseOrder());
+
+        try (JdbcStreamResult<BlogEntity> left = easyEntityQuery.queryable(BlogEntity.class)
+                .where(b -> b.status().eq(1))
+                .orderBy(b -> {
+                    b.publishTime().desc(OrderByModeEnum.NULLS_LAST);
+                    b.id().desc();
+                })
+                .toStreamResult(1000);
+             JdbcStreamResult<BlogEntity> right = easyEntityQuery.queryable(BlogEntity.class)
+                     .where(b -> b.score().ge(new BigDecimal("4.5")))
+                     .orderBy(b -> {
+                         b.publishTime().desc(OrderByModeEnum.NULLS_LAST);
+                         b.id().desc();
+                     })
+                     .toStreamResult(1000)) {
+
+            Iterator<BlogEntity> leftIterator = left.getStreamIterable().iterator();
+            Iterator<BlogEntity> rightIterator = right.getStreamIterable().iterator();
+            BlogEntity l = leftIterator.hasNext() ? leftIterator.next() : null;
+            BlogEntity r = rightIterator.hasNext() ? rightIterator.next() : null;
+            String lastId = null;
+            while (l != null || r != null) {
+                BlogEntity next;
+                if (r == null || (l != null && order.compare(l, r) <= 0)) {
+                    next = l;
+                    l = leftIterator.hasNext() ? leftIterator.next() : null;
+                } else {
+                    next = r;
+                    r = rightIterator.hasNext() ? rightIterator.next() : null;
+                }
+                if (!Objects.equals(lastId, next.getId())) {
+                    consumer.accept(next);
+                    lastId = next.getId();
+                }
+            }
+        } catch (SQLException e) {
+            throw new EasyQuerySQLException(e);
+        }
+    }
+
+    /**
+     * 列式批次：原生数组 + 空值位图
+     */
+    public static class BlogColumnBatch {
+        private final int[] star;
+        private final double[] score;
+        private final int[] viewCount;
+        private final long[] publishTime;
+        private final BitSet starNulls;
+        private final BitSet scoreNulls;
+        private final BitSet viewCountNulls;
+        private final BitSet publishTimeNulls;
+        private int size;
+
+        public BlogColumnBatch(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+            }
+            this.star = new int[capacity];
+            this.score = new double[capacity];
+            this.viewCount = new int[capacity];
+            this.publishTime = new long[capacity];
+            this.starNulls = new BitSet(capacity);
+            this.scoreNulls = new BitSet(capacity);
+            this.viewCountNulls = new BitSet(capacity);
+            this.publishTimeNulls = new BitSet(capacity);
+        }
+
+        public void append(Integer star, BigDecimal score, Integer viewCount, LocalDateTime publishTime) {
+            int i = size++;
+            if (star == null) {
+                starNulls.set(i);
+            } else {
+                this.star[i] = star;
+            }
+            if (score == null) {
+                scoreNulls.set(i);
+            } else {
+                this.score[i] = score.doubleValue();
+            }
+            if (viewCount == null) {
+                viewCountNulls.set(i);
+            } else {
+                this.viewCount[i] = viewCount;
+            }
+            if (publishTime == null) {
+                publishTimeNulls.set(i);
+            } else {
+                // 以 epoch 毫秒存储
+                this.publishTime[i] = publishTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            }
+        }
+
+        public void clear() {
+            size = 0;
+            starNulls.clear();
+            scoreNulls.clear();
+            viewCountNulls.clear();
+            publishTimeNulls.clear();
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int[] getStar() {
+            return star;
+        }
+
+        public double[] getScore() {
+            return score;
+        }
+
+        public int[] getViewCount() {
+            return viewCount;
+        }
+
+        public long[] getPublishTime() {
+            return publishTime;
+        }
+
+        public boolean isStarNull(int index) {
+            return starNulls.get(index);
+        }
+
+        public boolean isScoreNull(int index) {
+            return scoreNulls.get(index);
+        }
+
+        public boolean isViewCountNull(int index) {
+            return viewCountNulls.get(index);
+        }
+
+        public boolean isPublishTimeNull(int index) {
+            return publishTimeNulls.get(index);
+        }
+    }
 }